@@ -6,13 +6,25 @@ public final class Token {
     private final TokenType type;
     private final Object value;
     private final int line;
-    private final int column;
+    // Tokens read by a Tokenizer record the offset of their first character and of the start of their line, leaving
+    // the column to be computed only when asked for. Tokens created with an explicit column have a lineStart of 0.
+    private final int lineStart;
+    private final int offset;
 
-    private Token(TokenType type, Object value, int line, int column) {
+    private Token(TokenType type, Object value, int line, int lineStart, int offset) {
         this.type = type;
         this.value = value;
         this.line = line;
-        this.column = column;
+        this.lineStart = lineStart;
+        this.offset = offset;
+    }
+
+    private Token(TokenType type, Object value, int line, int column) {
+        this(type, value, line, 0, column);
+    }
+
+    static Token atOffset(TokenType type, Object value, int line, int lineStart, int offset) {
+        return new Token(type, value, line, lineStart, offset);
     }
 
     public TokenType type() {
@@ -28,7 +40,7 @@ public final class Token {
     }
 
     public int column() {
-        return column;
+        return offset - lineStart;
     }
 
     public static Token objStart(int line, int column) {
@@ -75,28 +87,8 @@ public final class Token {
         return new Token(TokenType.LIT_DOUBLE, value, line, column);
     }
 
-    public static class Exception extends RuntimeException {
-        private final String message;
-        private final int line;
-        private final int column;
-
-        public Exception(String message, Throwable cause, int line, int column) {
-            super(message, cause);
-            this.message = message;
-            this.line = line;
-            this.column = column;
-        }
-
-        public Exception(String message, int line, int column) {
-            super(message);
-            this.message = message;
-            this.line = line;
-            this.column = column;
-        }
-
-        public Token asErrorToken() {
-            return new Token(TokenType.ERROR, message, line, column);
-        }
+    public static Token error(String message, int line, int column) {
+        return new Token(TokenType.ERROR, message, line, column);
     }
 
     @Override
@@ -107,12 +99,12 @@ public final class Token {
         return Objects.equals(this.type, that.type) &&
                 Objects.equals(this.value, that.value) &&
                 this.line == that.line &&
-                this.column == that.column;
+                this.column() == that.column();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(type, value, line, column);
+        return Objects.hash(type, value, line, column());
     }
 
     @Override
@@ -121,7 +113,7 @@ public final class Token {
                 "type=" + type + ", " +
                 "value=" + value + ", " +
                 "line=" + line + ", " +
-                "column=" + column + ']';
+                "column=" + column() + ']';
     }
 
 }
@@ -7,12 +7,18 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 
 public class Tokenizer implements Iterator<Token> {
+    // Returned in place of a character once an error token has been recorded in failure
+    private static final int FAILED = -2;
+
     private final Reader input;
+    // Only the offset is maintained per character; line and lineStart change at line feeds, and tokens derive their
+    // column from the offset when asked
+    private int offset;
     private int line = 1;
-    private int column;
+    private int lineStart;
     private Token onDeck;
+    private Token failure;
     private int peeked;
-    private boolean hitError;
 
     Tokenizer(Reader input) {
         this.input = Objects.requireNonNull(input, "input must not be null");
@@ -45,53 +51,71 @@ public class Tokenizer implements Iterator<Token> {
     private void tryReadToken() {
         if (onDeck != null) {
             throw new AssertionError("tryReadToken called with token on deck");
-        } else if (hitError) {
+        } else if (failure != null) {
             return;
         }
 
+        Token token;
         try {
             int c = discardWhitespace();
-            onDeck = switch (c) {
-                case '{' -> Token.objStart(line, column);
-                case '}' -> Token.objEnd(line, column);
-                case ':' -> Token.objNameSep(line, column);
-                case ',' -> Token.objValSep(line, column);
-                case '[' -> Token.arrayStart(line, column);
-                case ']' -> Token.arrayEnd(line, column);
-                case '"' -> readString(column);
-                case 'f' -> expect("alse", Token.bool(false, line, column));
-                case 'n' -> expect("ull", Token.nullToken(line, column));
-                case 't' -> expect("rue", Token.bool(true, line, column));
-                case '-', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> readNumber(column, c);
-                case -1 -> null;
-                default -> throw new Token.Exception("Unrecognized character: " + Character.toString(c), line, column);
+            token = switch (c) {
+                case '{' -> token(TokenType.OBJ_START, null, offset);
+                case '}' -> token(TokenType.OBJ_END, null, offset);
+                case ':' -> token(TokenType.OBJ_NAME_SEP, null, offset);
+                case ',' -> token(TokenType.OBJ_VAL_SEP, null, offset);
+                case '[' -> token(TokenType.ARRAY_START, null, offset);
+                case ']' -> token(TokenType.ARRAY_END, null, offset);
+                case '"' -> readString(offset);
+                case 'f' -> expect("alse", token(TokenType.LIT_BOOL, false, offset));
+                case 'n' -> expect("ull", token(TokenType.LIT_NULL, null, offset));
+                case 't' -> expect("rue", token(TokenType.LIT_BOOL, true, offset));
+                case '-', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> readNumber(offset, c);
+                case -1, FAILED -> null;
+                default -> fail("Unrecognized character: " + Character.toString(c), offset);
             };
-        } catch (Token.Exception e) {
-            hitError = true;
-            onDeck = e.asErrorToken();
         } catch (RuntimeException e) {
-            hitError = true;
-            onDeck = new Token.Exception(e.getMessage(), e, line, column).asErrorToken();
+            token = fail(e.getMessage(), offset);
         }
+
+        onDeck = failure != null ? failure : token;
+    }
+
+    private Token token(TokenType type, Object value, int start) {
+        return Token.atOffset(type, value, line, lineStart, start);
+    }
+
+    /**
+     * Records an error token for the current read. Methods that return a character signal the failure to their
+     * callers by returning {@link #FAILED}; methods that return a token return the error token itself.
+     */
+    private Token fail(String message, int at) {
+        failure = Token.atOffset(TokenType.ERROR, message, line, lineStart, at);
+        return failure;
     }
 
-    private Token readString(int startingColumn) {
+    private Token readString(int start) {
         StringBuilder result = new StringBuilder();
         while (true) {
             int c = read();
             if (c == '\\') {
-                result.append(readCharEscape());
+                c = readCharEscape();
+                if (c == FAILED) {
+                    return failure;
+                }
+                result.append((char) c);
             } else if (c == '"') {
-                return Token.string(result.toString(), line, startingColumn);
+                return token(TokenType.LIT_STR, result.toString(), start);
+            } else if (c == FAILED) {
+                return failure;
             } else if (c <= 0x1F) {
-                throw new Token.Exception("Control characters not allowed inside strings", line, column);
+                return fail("Control characters not allowed inside strings", offset);
             } else {
                 result.append((char) c);
             }
         }
     }
 
-    private char readCharEscape() {
+    private int readCharEscape() {
         int c = read();
         return switch (c) {
             case '"' -> '"';
@@ -102,26 +126,44 @@ public class Tokenizer implements Iterator<Token> {
             case 'n' -> '\n';
             case 'r' -> '\r';
             case 't' -> '\t';
-            case 'u' -> (char) (readHexDigit() << 12 | readHexDigit() << 8 | readHexDigit() << 4 | readHexDigit());
-            default -> throw new Token.Exception("Unrecognized escape sequence \\" + (char) c, line, column);
+            case 'u' -> readUnicodeEscape();
+            case FAILED -> FAILED;
+            default -> {
+                fail("Unrecognized escape sequence \\" + (char) c, offset);
+                yield FAILED;
+            }
         };
     }
 
+    private int readUnicodeEscape() {
+        int result = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = readHexDigit();
+            if (digit == FAILED) {
+                return FAILED;
+            }
+            result = result << 4 | digit;
+        }
+        return result;
+    }
+
     private int readHexDigit() {
         int c = read();
+        if (c == FAILED) {
+            return FAILED;
+        }
         int result = Character.digit(c, 16);
         if (result == -1) {
-            throw new Token.Exception("Invalid character '" + (char) c + "' in Unicode escape", line, column);
+            fail("Invalid character '" + (char) c + "' in Unicode escape", offset);
+            return FAILED;
         }
         return result;
     }
 
-    private Token readNumber(int startingColumn, int firstChar) {
+    private Token readNumber(int start, int firstChar) {
         StringBuilder buf = new StringBuilder();
-        int minusFactor = 1;
-        if (firstChar == '-') {
-            minusFactor = -1;
-        } else {
+        boolean negative = firstChar == '-';
+        if (!negative) {
             putBack(firstChar);
         }
 
@@ -142,17 +184,33 @@ public class Tokenizer implements Iterator<Token> {
             c = accumulateDigits(buf);
         }
 
+        if (c == FAILED) {
+            return failure;
+        }
         putBack(c);
 
-        try {
-            if (isLong) {
-                return Token.longToken(minusFactor * Long.parseUnsignedLong(buf, 0, buf.length(), 10), line, startingColumn);
-            } else {
-                return Token.doubleToken(minusFactor * Double.parseDouble(buf.toString()), line, startingColumn);
+        if (isLong) {
+            return longToken(buf, negative, start);
+        } else {
+            double value = Double.parseDouble(buf.toString());
+            return token(TokenType.LIT_DOUBLE, negative ? -value : value, start);
+        }
+    }
+
+    private Token longToken(CharSequence digits, boolean negative, int start) {
+        // Accumulate negatively, as Long.parseLong does, so that Long.MIN_VALUE fits. Checking for overflow here
+        // rather than catching NumberFormatException keeps out-of-range literals off the exception path.
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long result = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            int digit = digits.charAt(i) - '0';
+            if (result < limit / 10 || result * 10 < limit + digit) {
+                // The literal itself is well-formed, so report it without stopping the tokenizer
+                return token(TokenType.ERROR, "Invalid numeric literal", start);
             }
-        } catch (NumberFormatException e) {
-            return new Token.Exception("Invalid numeric literal", e, line, startingColumn).asErrorToken();
+            result = result * 10 - digit;
         }
+        return token(TokenType.LIT_LONG, negative ? result : -result, start);
     }
 
     private int accumulateDigits(StringBuilder buf) {
@@ -160,17 +218,22 @@ public class Tokenizer implements Iterator<Token> {
         for (c = nextChar(true), i = 0; c >= '0' && c <= '9'; c = nextChar(true), i++) {
             buf.append((char) c);
         }
-        if (i == 0) {
-            throw new Token.Exception("Expected digits in numeric literal", line, column);
+        if (c == FAILED) {
+            return FAILED;
+        } else if (i == 0) {
+            fail("Expected digits in numeric literal", offset);
+            return FAILED;
         }
         return c;
     }
 
     private Token expect(String remaining, Token successToken) {
-        for (char expected : remaining.toCharArray()) {
+        for (int i = 0; i < remaining.length(); i++) {
             int actual = read();
-            if (expected != actual) {
-                throw new Token.Exception("Unexpected character: " + Character.toString(actual), line, column);
+            if (actual == FAILED) {
+                return failure;
+            } else if (remaining.charAt(i) != actual) {
+                return fail("Unexpected character: " + Character.toString(actual), offset);
             }
         }
         return successToken;
@@ -182,7 +245,7 @@ public class Tokenizer implements Iterator<Token> {
             result = nextChar(true);
             if (result == 0x0A) {
                 line++;
-                column = 0;
+                lineStart = offset;
             }
         } while (isWhitespace(result));
         return result;
@@ -207,19 +270,21 @@ public class Tokenizer implements Iterator<Token> {
         try {
             result = input.read();
         } catch (IOException e) {
-            throw new Token.Exception(e.getMessage(), e, line, column);
+            fail(e.getMessage(), offset);
+            return FAILED;
         }
 
         if (result == -1 && !eofAllowed) {
-            throw new Token.Exception("Unexpected end of input", line, column);
+            fail("Unexpected end of input", offset);
+            return FAILED;
         }
 
-        column++;
+        offset++;
         return result;
     }
 
     private void putBack(int c) {
-        assert peeked == 0 : String.format("Attempt to putBack '%c' at line %d and column %d with char '%c' already stored: ", c, line, column, peeked);
+        assert peeked == 0 : String.format("Attempt to putBack '%c' at offset %d with char '%c' already stored: ", c, offset, peeked);
         peeked = c;
     }
 }
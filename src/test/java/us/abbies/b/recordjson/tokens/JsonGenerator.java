@@ -3,6 +3,9 @@ package us.abbies.b.recordjson.tokens;
 import java.util.Random;
 
 public class JsonGenerator {
+    // Each of these is a lexical error wherever it lands, whether inside a string or between tokens
+    private static final String[] CORRUPTIONS = {"\u0001", "\\x", "tru", "-", "\"\\u12"};
+
     private final Random r;
     private final StringBuilder sb;
 
@@ -18,6 +21,19 @@ public class JsonGenerator {
         return result;
     }
 
+    /**
+     * Generates a short document that is cut off at a random point within its first {@code maxLength} characters
+     * and ends in a lexical error.
+     */
+    public String generateMalformed(int maxLength) {
+        generateObject(r.nextInt(20) + 1);
+        sb.setLength(r.nextInt(Math.min(sb.length(), maxLength)) + 1);
+        sb.append(CORRUPTIONS[r.nextInt(CORRUPTIONS.length)]);
+        String result = sb.toString();
+        sb.setLength(0);
+        return result;
+    }
+
     private void generateObject(int fieldCount) {
         sb.append('{');
         for (int i = 0; i < fieldCount; i++) {
@@ -51,21 +67,22 @@ public class JsonGenerator {
             sb.append('-');
         }
 
-        sb.append('0' + r.nextInt(9) + 1);
+        sb.append((char) ('0' + r.nextInt(9) + 1));
         for (int i = 0; i < r.nextInt(10); i++) {
-            sb.append('0' + r.nextInt(10));
+            sb.append((char) ('0' + r.nextInt(10)));
         }
 
         if (r.nextInt(8) == 0) {
+            sb.append('.');
             for (int i = 0; i < r.nextInt(10) + 1; i++) {
-                sb.append('0' + r.nextInt(10));
+                sb.append((char) ('0' + r.nextInt(10)));
             }
         }
 
         if (r.nextInt(8) == 0) {
             sb.append('e');
             for (int i = 0; i < r.nextInt(5) + 1; i++) {
-                sb.append('0' + r.nextInt(10));
+                sb.append((char) ('0' + r.nextInt(10)));
             }
         }
     }
@@ -1,7 +1,9 @@
 package us.abbies.b.recordjson.tokens;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
 
 import java.io.IOException;
 import java.io.StringReader;
@@ -22,6 +24,31 @@ public class TokenizerBenchmark {
         }
     }
 
+    @State(Scope.Benchmark)
+    public static class MalformedState {
+        @Param({"12"})
+        int jsonSeed;
+        @Param({"1000"})
+        int documentCount;
+        @Param({"256"})
+        int maxDocumentLength;
+        String[] documents;
+        JsonFactory jf;
+
+        @Setup
+        public void generateJson() {
+            var generator = new JsonGenerator(jsonSeed);
+            documents = new String[documentCount];
+            int length = 0;
+            for (int i = 0; i < documentCount; i++) {
+                documents[i] = generator.generateMalformed(maxDocumentLength);
+                length += documents[i].length();
+            }
+            jf = JsonFactory.builder().build();
+            System.out.format("Generated %d malformed documents totalling %d characters\n", documentCount, length);
+        }
+    }
+
     @Benchmark
     public void tokenizeRecordjson(BenchmarkState state) {
         var t = new Tokenizer(new StringReader(state.json));
@@ -35,4 +62,30 @@ public class TokenizerBenchmark {
         var p = state.jf.createParser(new StringReader(state.json));
         while (p.nextToken() != null) {}
     }
+
+    @Benchmark
+    public void tokenizeRecordjsonMalformed(MalformedState state, Blackhole bh) {
+        for (String document : state.documents) {
+            var t = new Tokenizer(new StringReader(document));
+            while (t.hasNext()) {
+                var token = t.next();
+                if (token.type() == TokenType.ERROR) {
+                    bh.consume(token.line());
+                    bh.consume(token.column());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void tokenizeJacksonMalformed(MalformedState state, Blackhole bh) throws IOException {
+        for (String document : state.documents) {
+            try (var p = state.jf.createParser(new StringReader(document))) {
+                while (p.nextToken() != null) {}
+            } catch (JsonProcessingException e) {
+                bh.consume(e.getLocation().getLineNr());
+                bh.consume(e.getLocation().getColumnNr());
+            }
+        }
+    }
 }
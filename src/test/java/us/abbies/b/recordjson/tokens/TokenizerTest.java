@@ -1,5 +1,6 @@
 package us.abbies.b.recordjson.tokens;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -9,7 +10,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 class TokenizerTest {
@@ -20,6 +23,24 @@ class TokenizerTest {
                                 Token.string("a", 1, 4),
                                 Token.string("a", 3, 2)
                         )
+                ),
+                arguments("[\n  1,\n  null\n]", List.of(
+                                Token.arrayStart(1, 1),
+                                Token.longToken(1, 2, 3),
+                                Token.objValSep(2, 4),
+                                Token.nullToken(3, 3),
+                                Token.arrayEnd(4, 1)
+                        )
+                ),
+                arguments("1\n\n  ?", List.of(
+                                Token.longToken(1, 1, 1),
+                                Token.error("Unrecognized character: ?", 3, 3)
+                        )
+                ),
+                arguments("\n".repeat(20) + "  true" + "\n".repeat(20) + " nul", List.of(
+                                Token.bool(true, 21, 3),
+                                Token.error("Unexpected end of input", 41, 4)
+                        )
                 )
         );
     }
@@ -36,7 +57,7 @@ class TokenizerTest {
                 arguments("\"\\n\"", List.of(Token.string("\n", 1, 1))),
                 arguments("\"\\r\"", List.of(Token.string("\r", 1, 1))),
                 arguments("\"\\t\"", List.of(Token.string("\t", 1, 1))),
-                arguments("\"\\q\"", List.of(new Token.Exception("Unrecognized escape sequence \\q", 1, 3).asErrorToken()))
+                arguments("\"\\q\"", List.of(Token.error("Unrecognized escape sequence \\q", 1, 3)))
         );
     }
 
@@ -51,16 +72,16 @@ class TokenizerTest {
                 )),
                 arguments("\"\\uD83D\"", List.of(Token.string("\uD83D", 1, 1))),
                 arguments("\"\\u0401\"", List.of(Token.string("Ё", 1, 1))),
-                arguments("\"\\u040\"", List.of(new Token.Exception("Invalid character '\"' in Unicode escape", 1, 7).asErrorToken())),
-                arguments("\"\\u040", List.of(new Token.Exception("Unexpected end of input", 1, 6).asErrorToken()))
+                arguments("\"\\u040\"", List.of(Token.error("Invalid character '\"' in Unicode escape", 1, 7))),
+                arguments("\"\\u040", List.of(Token.error("Unexpected end of input", 1, 6)))
         );
     }
 
     static Stream<Arguments> nullTestCases() {
         return Stream.of(
                 arguments("null", List.of(Token.nullToken(1, 1))),
-                arguments("nll", List.of(new Token.Exception("Unexpected character: l", 1, 2).asErrorToken())),
-                arguments("nul", List.of(new Token.Exception("Unexpected end of input", 1, 3).asErrorToken()))
+                arguments("nll", List.of(Token.error("Unexpected character: l", 1, 2))),
+                arguments("nul", List.of(Token.error("Unexpected end of input", 1, 3)))
         );
     }
 
@@ -68,12 +89,12 @@ class TokenizerTest {
         return Stream.of(
                 arguments("false", List.of(Token.bool(false, 1, 1))),
                 arguments("true", List.of(Token.bool(true, 1, 1))),
-                arguments("flase", List.of(new Token.Exception("Unexpected character: l", 1, 2).asErrorToken())),
-                arguments("ture", List.of(new Token.Exception("Unexpected character: u", 1, 2).asErrorToken())),
-                arguments("f", List.of(new Token.Exception("Unexpected end of input", 1, 1).asErrorToken())),
-                arguments("fals", List.of(new Token.Exception("Unexpected end of input", 1, 4).asErrorToken())),
-                arguments("t", List.of(new Token.Exception("Unexpected end of input", 1, 1).asErrorToken())),
-                arguments("tru", List.of(new Token.Exception("Unexpected end of input", 1, 3).asErrorToken()))
+                arguments("flase", List.of(Token.error("Unexpected character: l", 1, 2))),
+                arguments("ture", List.of(Token.error("Unexpected character: u", 1, 2))),
+                arguments("f", List.of(Token.error("Unexpected end of input", 1, 1))),
+                arguments("fals", List.of(Token.error("Unexpected end of input", 1, 4))),
+                arguments("t", List.of(Token.error("Unexpected end of input", 1, 1))),
+                arguments("tru", List.of(Token.error("Unexpected end of input", 1, 3)))
         );
     }
 
@@ -91,8 +112,20 @@ class TokenizerTest {
                 arguments("-2E2", List.of(Token.doubleToken(-200.0, 1, 1))),
                 arguments("23", List.of(Token.longToken(23, 1, 1))),
                 arguments("-23", List.of(Token.longToken(-23, 1, 1))),
-                arguments("2300000000000000000000", List.of(new Token.Exception("Invalid numeric literal", 1, 1).asErrorToken())),
-                arguments("-2300000000000000000000", List.of(new Token.Exception("Invalid numeric literal", 1, 1).asErrorToken())),
+                arguments("2300000000000000000000", List.of(Token.error("Invalid numeric literal", 1, 1))),
+                arguments("-2300000000000000000000", List.of(Token.error("Invalid numeric literal", 1, 1))),
+                arguments("9223372036854775807", List.of(Token.longToken(Long.MAX_VALUE, 1, 1))),
+                arguments("-9223372036854775808", List.of(Token.longToken(Long.MIN_VALUE, 1, 1))),
+                arguments("9223372036854775808", List.of(Token.error("Invalid numeric literal", 1, 1))),
+                arguments("-9223372036854775809", List.of(Token.error("Invalid numeric literal", 1, 1))),
+                arguments("[23000000000000000000000, 1]", List.of(
+                        Token.arrayStart(1, 1),
+                        Token.error("Invalid numeric literal", 1, 2),
+                        Token.objValSep(1, 25),
+                        Token.longToken(1, 1, 27),
+                        Token.arrayEnd(1, 28)
+                )),
+                arguments("2.", List.of(Token.error("Expected digits in numeric literal", 1, 3))),
                 arguments("2300000000000000000000.0", List.of(Token.doubleToken(2300000000000000000000.0, 1, 1))),
                 arguments("-2300000000000000000000.0", List.of(Token.doubleToken(-2300000000000000000000.0, 1, 1))),
                 arguments("2300000000000000000000.0e2", List.of(Token.doubleToken(230000000000000000000000.0, 1, 1))),
@@ -115,4 +148,22 @@ class TokenizerTest {
         tokenizer.forEachRemaining(actualTokens::add);
         assertIterableEquals(expectedTokens, actualTokens);
     }
+
+    @Test
+    public void generatedJsonHasNoErrors() {
+        var tokenizer = new Tokenizer(new StringReader(new JsonGenerator(12).generate()));
+        tokenizer.forEachRemaining(token -> assertNotEquals(TokenType.ERROR, token.type(), token::toString));
+    }
+
+    @Test
+    public void generatedMalformedJsonEndsInOneError() {
+        var generator = new JsonGenerator(12);
+        for (int i = 0; i < 1000; i++) {
+            String document = generator.generateMalformed(256);
+            List<Token> tokens = new ArrayList<>();
+            new Tokenizer(new StringReader(document)).forEachRemaining(tokens::add);
+            assertEquals(1, tokens.stream().filter(t -> t.type() == TokenType.ERROR).count(), document);
+            assertEquals(TokenType.ERROR, tokens.get(tokens.size() - 1).type(), document);
+        }
+    }
 }